@@ -4,9 +4,11 @@ package com.github.dtrunk90.bookapi.controller;
 
 import com.github.dtrunk90.bookapi.exception.BookNotFoundException;
 import com.github.dtrunk90.bookapi.exception.ValidationProblemDetail;
+import com.github.dtrunk90.bookapi.model.AuthorCount;
 import com.github.dtrunk90.bookapi.model.Book;
 import com.github.dtrunk90.bookapi.service.BookService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -14,21 +16,29 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
  * REST controller for managing {@link Book} resources.
  *
- * <p>Provides endpoints for retrieving and creating books via HTTP.
+ * <p>Provides endpoints for retrieving and creating books via HTTP, as well as
+ * per-author book counts.
  * Uses {@link BookService} to delegate business logic and data persistence.</p>
  *
  * <p>Annotated with {@link RestController} and {@link RequestMapping} to define the base path.
@@ -96,4 +106,54 @@ public class BookController {
                                @RequestBody @Valid final Book book) {
         return service.storeBook(book);
     }
+
+    /**
+     * Retrieves a page of authors together with their book counts, ordered by descending count.
+     *
+     * <p>If no books are found, a {@link BookNotFoundException} is thrown.</p>
+     *
+     * @param pageable the requested page (sorting is ignored)
+     * @return a page of {@link AuthorCount} entries
+     * @throws BookNotFoundException if no books exist in the system
+     */
+    @GetMapping("/authors")
+    @Operation(summary = "Get all authors with their number of books")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Found authors",
+                    content = { @Content(mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    "{ \"content\": [{ \"author\": \"John Doe\", \"count\": 2 }], \"page\": { \"size\": 20, \"number\": 0, \"totalElements\": 1, \"totalPages\": 1 } }")) }),
+            @ApiResponse(responseCode = "404", description = "Did not find any books", content = { @Content() }) })
+    public PagedModel<AuthorCount> getAuthors(@ParameterObject @PageableDefault(size = 20) final Pageable pageable) {
+        return Optional.of(service.getAuthors(pageable))
+                .filter(page -> page.getTotalElements() > 0)
+                .map(PagedModel::new)
+                .orElseThrow(BookNotFoundException::new);
+    }
+
+    /**
+     * Retrieves the authors with the most books.
+     *
+     * <p>If no books are found, a {@link BookNotFoundException} is thrown.</p>
+     *
+     * @param n the maximum number of authors to return (must be positive)
+     * @return up to {@code n} {@link AuthorCount} entries, ordered by descending count
+     * @throws BookNotFoundException if no books exist in the system
+     */
+    @GetMapping("/authors/top")
+    @Operation(summary = "Get the authors with the most books")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Found authors",
+                    content = { @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = AuthorCount.class)),
+                            examples = @ExampleObject("[{ \"author\": \"John Doe\", \"count\": 2 }]")) }),
+            @ApiResponse(responseCode = "400", description = "Invalid number of authors requested",
+                    content = { @Content() }),
+            @ApiResponse(responseCode = "404", description = "Did not find any books", content = { @Content() }) })
+    public List<AuthorCount> getTopAuthors(@Parameter(description = "Maximum number of authors to return")
+                                           @RequestParam(defaultValue = "10") @Positive final int n) {
+        return Optional.of(service.getTopAuthors(n))
+                .filter(authors -> !authors.isEmpty())
+                .orElseThrow(BookNotFoundException::new);
+    }
 }
@@ -0,0 +1,25 @@
+/* SPDX-License-Identifier: GPL-3.0-or-later */
+
+package com.github.dtrunk90.bookapi.model;
+
+import java.util.Comparator;
+
+/**
+ * Read model representing the number of books written by a single author.
+ *
+ * <p>Instances are immutable snapshots taken from the author aggregate and are used both
+ * for the paged author listing and for the top-N ranking.</p>
+ *
+ * @param author the name of the author
+ * @param count  the number of books stored for the author
+ *
+ * @author dtrunk90
+ */
+public record AuthorCount(String author, long count) {
+    /**
+     * Ranking order: highest count first, ties broken by author name.
+     */
+    public static final Comparator<AuthorCount> BY_COUNT_DESC = Comparator
+            .comparingLong(AuthorCount::count).reversed()
+            .thenComparing(AuthorCount::author);
+}
@@ -2,8 +2,15 @@
 
 package com.github.dtrunk90.bookapi.repository;
 
+import com.github.dtrunk90.bookapi.model.AuthorCount;
 import com.github.dtrunk90.bookapi.model.Book;
+import jakarta.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Repository interface for managing {@link Book} entities.
@@ -16,4 +23,42 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * @author dtrunk90
  */
 public interface BookRepository extends JpaRepository<Book, Long> {
+    /**
+     * Retrieves a book by its ID and locks its row for writing until the transaction ends.
+     *
+     * @param id the ID of the book
+     * @return the book, or an empty {@link Optional} if it does not exist
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from Book b where b.id = :id")
+    Optional<Book> findByIdForUpdate(@Param("id") long id);
+
+    /**
+     * Retrieves the smallest book ID currently stored.
+     *
+     * @return the smallest ID, or an empty {@link Optional} if there are no books
+     */
+    @Query("select min(b.id) from Book b")
+    Optional<Long> findMinId();
+
+    /**
+     * Retrieves the largest book ID currently stored.
+     *
+     * @return the largest ID, or an empty {@link Optional} if there are no books
+     */
+    @Query("select max(b.id) from Book b")
+    Optional<Long> findMaxId();
+
+    /**
+     * Counts the books per author within an inclusive ID range.
+     *
+     * <p>Used to rebuild the author aggregate in parallel, one ID range per worker.</p>
+     *
+     * @param from the lower bound of the ID range (inclusive)
+     * @param to   the upper bound of the ID range (inclusive)
+     * @return the book count of every author having at least one book in the range
+     */
+    @Query("select new com.github.dtrunk90.bookapi.model.AuthorCount(b.author, count(b)) from Book b "
+            + "where b.id between :from and :to group by b.author")
+    List<AuthorCount> countByAuthorInIdRange(@Param("from") long from, @Param("to") long to);
 }
@@ -2,8 +2,12 @@
 
 package com.github.dtrunk90.bookapi.service;
 
+import com.github.dtrunk90.bookapi.model.AuthorCount;
 import com.github.dtrunk90.bookapi.model.Book;
 import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 /**
  * Service interface for managing books.
@@ -28,4 +32,20 @@ public interface BookService {
      * @return the stored {@link Book} with updated ID
      */
     Book storeBook(Book book);
+
+    /**
+     * Retrieves a page of authors together with their book counts.
+     *
+     * @param pageable the requested page
+     * @return a page of {@link AuthorCount} entries, ordered by descending book count
+     */
+    Page<AuthorCount> getAuthors(Pageable pageable);
+
+    /**
+     * Retrieves the authors with the most books.
+     *
+     * @param n the maximum number of authors to return
+     * @return up to {@code n} {@link AuthorCount} entries, ordered by descending book count
+     */
+    List<AuthorCount> getTopAuthors(int n);
 }
@@ -0,0 +1,225 @@
+/* SPDX-License-Identifier: GPL-3.0-or-later */
+
+package com.github.dtrunk90.bookapi.service.impl;
+
+import com.github.dtrunk90.bookapi.model.AuthorCount;
+import com.github.dtrunk90.bookapi.repository.BookRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory aggregate of the number of books per author.
+ *
+ * <p>The aggregate is rebuilt from the database once at startup and afterwards maintained
+ * incrementally by {@link JpaBookService#storeBook}, so that reads never have to scan
+ * the book table.</p>
+ *
+ * <p>Counts are held in a {@link ConcurrentHashMap}, whose atomic per-key
+ * {@link ConcurrentMap#compute compute} also keeps a {@link ConcurrentSkipListSet} ranking
+ * (ordered by {@link AuthorCount#BY_COUNT_DESC}) in step with the counter.</p>
+ *
+ * @author dtrunk90
+ */
+@Component
+public class AuthorAggregate implements SmartInitializingSingleton {
+    /**
+     * The repository used to rebuild the aggregate from the database.
+     */
+    private final BookRepository repository;
+
+    /**
+     * The connection pool size, which limits the number of parallel rebuild queries.
+     */
+    private final int poolSize;
+
+    /**
+     * The current counts and ranking; replaced as a whole by {@link #rebuild(int)}.
+     */
+    private volatile State state = new State();
+
+    /**
+     * Counts and ranking of one generation of the aggregate.
+     *
+     * @param counts  number of books per author; may briefly be negative while
+     *                concurrently committed deltas are applied out of order
+     * @param ranking authors with a positive count, ordered by descending count, then by name
+     * @param authors number of authors with a positive count, i.e. the size of {@code ranking}
+     */
+    private record State(ConcurrentMap<String, Long> counts, NavigableSet<AuthorCount> ranking, AtomicLong authors) {
+        State() {
+            this(new ConcurrentHashMap<>(), new ConcurrentSkipListSet<>(AuthorCount.BY_COUNT_DESC), new AtomicLong());
+        }
+    }
+
+    /**
+     * Creates the aggregate.
+     *
+     * @param repository the repository used to rebuild the aggregate from the database
+     * @param poolSize   the connection pool size, which limits the number of parallel rebuild queries
+     */
+    public AuthorAggregate(BookRepository repository,
+                           @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        this.repository = repository;
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * Rebuilds the aggregate at startup, once all singletons (including the transaction
+     * infrastructure used by the repository) exist and before the web server accepts requests.
+     *
+     * @see #rebuild()
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the aggregate using one ID range per rebuild thread.
+     *
+     * @see #rebuild(int)
+     */
+    public void rebuild() {
+        rebuild(threads());
+    }
+
+    /**
+     * Rebuilds the aggregate from the database.
+     *
+     * <p>The ID space is split into {@code partitions} ranges which are counted in parallel on a
+     * dedicated executor, sized to the number of available processors but never more than the
+     * connection pool can serve. The result is built into fresh structures and swapped in at once,
+     * so readers never see a partial aggregate. Deltas applied while a rebuild is running may be
+     * lost, so this is intended to run before the web server accepts requests.</p>
+     *
+     * @param partitions the number of ID ranges to split the table into
+     */
+    public void rebuild(int partitions) {
+        State rebuilt = new State();
+
+        long min = repository.findMinId().orElse(0L);
+        long max = repository.findMaxId().orElse(-1L);
+        if (max >= min) {
+            long span = max - min + 1;
+            long ranges = Math.min(partitions, span);
+            long chunk = (span + ranges - 1) / ranges;
+
+            Map<String, Long> counts;
+            try (ExecutorService executor = Executors.newFixedThreadPool((int) Math.min(ranges, threads()))) {
+                List<CompletableFuture<List<AuthorCount>>> futures = LongStream.range(0, ranges)
+                        .mapToObj(range -> {
+                            long from = min + range * chunk;
+                            long to = Math.min(from + chunk - 1, max);
+                            return CompletableFuture.supplyAsync(
+                                    () -> repository.countByAuthorInIdRange(from, to), executor);
+                        })
+                        .toList();
+                counts = futures.stream()
+                        .map(CompletableFuture::join)
+                        .flatMap(List::stream)
+                        .collect(Collectors.toMap(AuthorCount::author, AuthorCount::count, Long::sum));
+            }
+
+            counts.forEach((author, count) -> adjust(rebuilt, author, count));
+        }
+
+        state = rebuilt;
+    }
+
+    /**
+     * Adds the given delta to the book count of an author.
+     *
+     * <p>Authors whose count drops to zero are removed from the aggregate. The ranking entry of
+     * the author is replaced by removing the old one before adding the new one, so a concurrent
+     * read may briefly miss the author.</p>
+     *
+     * @param author the name of the author
+     * @param delta  the amount to add (may be negative)
+     */
+    public void adjust(String author, long delta) {
+        adjust(state, author, delta);
+    }
+
+    /**
+     * Retrieves a page of authors, ordered by descending book count.
+     *
+     * <p>The total number of authors is kept as a counter next to the ranking, so the page
+     * content and the total may briefly disagree while an author is being adjusted.
+     * Sorting requested via the {@link Pageable} is ignored.</p>
+     *
+     * @param pageable the requested page
+     * @return a page of {@link AuthorCount} entries
+     */
+    public Page<AuthorCount> getAuthors(Pageable pageable) {
+        State current = state;
+        List<AuthorCount> content = current.ranking().stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        return new PageImpl<>(content, pageable, current.authors().get());
+    }
+
+    /**
+     * Retrieves the authors with the most books.
+     *
+     * @param n the maximum number of authors to return
+     * @return up to {@code n} {@link AuthorCount} entries, ordered by descending book count
+     */
+    public List<AuthorCount> getTopAuthors(int n) {
+        return state.ranking().stream()
+                .limit(n)
+                .toList();
+    }
+
+    /**
+     * Adds the given delta to the book count of an author within the given state.
+     *
+     * @param target the state to update
+     * @param author the name of the author
+     * @param delta  the amount to add (may be negative)
+     */
+    private static void adjust(State target, String author, long delta) {
+        target.counts().compute(author, (key, current) -> {
+            long previous = current == null ? 0 : current;
+            long updated = previous + delta;
+            if (previous > 0) {
+                target.ranking().remove(new AuthorCount(key, previous));
+                if (updated <= 0) {
+                    target.authors().decrementAndGet();
+                }
+            }
+            if (updated > 0) {
+                target.ranking().add(new AuthorCount(key, updated));
+                if (previous <= 0) {
+                    target.authors().incrementAndGet();
+                }
+            }
+            return updated == 0 ? null : updated;
+        });
+    }
+
+    /**
+     * Determines the number of threads used for a rebuild.
+     *
+     * @return the number of available processors, capped by the connection pool size
+     */
+    private int threads() {
+        return Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), poolSize));
+    }
+}
@@ -2,12 +2,20 @@
 
 package com.github.dtrunk90.bookapi.service.impl;
 
+import com.github.dtrunk90.bookapi.model.AuthorCount;
 import com.github.dtrunk90.bookapi.model.Book;
 import com.github.dtrunk90.bookapi.repository.BookRepository;
 import com.github.dtrunk90.bookapi.service.BookService;
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * JPA-based implementation of the {@link BookService} interface.
@@ -15,6 +23,9 @@ import org.springframework.stereotype.Service;
  * <p>This service uses a {@link BookRepository} to interact with the underlying data store.
  * It provides basic CRUD operations for {@link Book} entities.</p>
  *
+ * <p>Author statistics are served from the {@link AuthorAggregate}, which is kept up to date
+ * on every write.</p>
+ *
  * <p>The class is annotated with {@link Service} to indicate that it is a Spring-managed service
  * component. Constructor injection is handled via Lombok's {@link RequiredArgsConstructor}.</p>
  *
@@ -28,6 +39,11 @@ public class JpaBookService implements BookService {
      */
     private final BookRepository repository;
 
+    /**
+     * The aggregate holding the number of books per author.
+     */
+    private final AuthorAggregate authorAggregate;
+
     /**
      * Retrieves all books from the database.
      *
@@ -42,11 +58,56 @@ public class JpaBookService implements BookService {
      * Stores the given book in the database.
      * If the book already exists (matches by ID), it will be updated.
      *
+     * <p>An existing book is read with a pessimistic write lock, so concurrent updates of the
+     * same book see each other's author. The {@link AuthorAggregate} is adjusted only after the
+     * transaction has committed; if an existing book changes its author, the count is moved from
+     * the previous author to the new one.</p>
+     *
      * @param book the {@link Book} to be stored
      * @return the persisted {@link Book} instance
      */
     @Override
+    @Transactional
     public Book storeBook(Book book) {
-        return repository.save(book);
+        Optional<String> previousAuthor = book.getId() == 0
+                ? Optional.empty()
+                : repository.findByIdForUpdate(book.getId()).map(Book::getAuthor);
+
+        Book stored = repository.save(book);
+        String author = stored.getAuthor();
+
+        if (previousAuthor.filter(author::equals).isEmpty()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    previousAuthor.ifPresent(previous -> authorAggregate.adjust(previous, -1));
+                    authorAggregate.adjust(author, 1);
+                }
+            });
+        }
+
+        return stored;
+    }
+
+    /**
+     * Retrieves a page of authors from the {@link AuthorAggregate}.
+     *
+     * @param pageable the requested page
+     * @return a page of {@link AuthorCount} entries
+     */
+    @Override
+    public Page<AuthorCount> getAuthors(Pageable pageable) {
+        return authorAggregate.getAuthors(pageable);
+    }
+
+    /**
+     * Retrieves the top authors from the {@link AuthorAggregate}.
+     *
+     * @param n the maximum number of authors to return
+     * @return up to {@code n} {@link AuthorCount} entries
+     */
+    @Override
+    public List<AuthorCount> getTopAuthors(int n) {
+        return authorAggregate.getTopAuthors(n);
     }
 }
@@ -0,0 +1,402 @@
+/* SPDX-License-Identifier: GPL-3.0-or-later */
+
+package com.github.dtrunk90.bookapi;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.dtrunk90.bookapi.model.Book;
+import com.github.dtrunk90.bookapi.service.BookService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+/**
+ * Load tests for the Book API running on the embedded web server.
+ *
+ * <p>The application is booted on a random port via {@link TestBookApiApplication} and seeded
+ * through {@link BookService}, so no external services are involved. A weighted mix of GET and
+ * POST requests is then sent at a fixed arrival rate, each request on its own virtual thread.
+ * Latencies are measured from the scheduled start of a request rather than from the moment it
+ * was actually sent, so that a stalling server cannot hide its queueing delay.</p>
+ *
+ * <p>Latencies are recorded per {@link Operation} in HdrHistograms. The test fails if the
+ * 99th percentile of any operation or the achieved throughput misses the thresholds stored in
+ * {@code load-test.properties}.</p>
+ *
+ * <p>Tagged with {@code load} and therefore excluded from the regular build. Run it with
+ * {@code ./mvnw test -Pload-test}.</p>
+ *
+ * @author dtrunk90
+ */
+@Tag("load")
+class BookApiLoadTests {
+    /**
+     * Scenario and thresholds loaded from {@code load-test.properties}.
+     */
+    private static final Properties CONFIG = loadConfig();
+
+    /**
+     * Upper bound of the latency histograms; slower requests are clamped to this value.
+     */
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    /**
+     * Number of distinct authors the generated books are spread across.
+     */
+    private static final int AUTHORS = 50;
+
+    /**
+     * The running application under test.
+     */
+    private static SpringApplication.Running application;
+
+    /**
+     * The HTTP client shared by all virtual-thread clients.
+     */
+    private static HttpClient client;
+
+    /**
+     * The base URI of the embedded web server, including its random port.
+     */
+    private static URI baseUri;
+
+    /**
+     * The application's object mapper, used to serialize request bodies.
+     */
+    private static ObjectMapper objectMapper;
+
+    /**
+     * Boots the application on a random port and seeds the configured number of books.
+     */
+    @BeforeAll
+    static void startApplication() {
+        application = TestBookApiApplication.run("--server.port=0", "--spring.jpa.show-sql=false");
+        WebServerApplicationContext context = (WebServerApplicationContext) application.getApplicationContext();
+        baseUri = URI.create("http://localhost:" + context.getWebServer().getPort());
+        objectMapper = context.getBean(ObjectMapper.class);
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+
+        BookService service = context.getBean(BookService.class);
+        for (int i = 0; i < integer("load.seed.books"); i++) {
+            service.storeBook(book(i));
+        }
+    }
+
+    /**
+     * Shuts down the HTTP client and the application.
+     */
+    @AfterAll
+    static void stopApplication() {
+        client.close();
+        application.getApplicationContext().close();
+    }
+
+    /**
+     * Sends the configured traffic mix after a warm-up and verifies the SLO thresholds.
+     *
+     * <p>Asserts that no request failed, that the achieved throughput reaches the configured
+     * fraction of the target rate and that the 99th percentile latency of every operation stays
+     * within its threshold.</p>
+     */
+    @Test
+    void givenTrafficMix_whenSentAtFixedRate_thenLatencyAndThroughputWithinThresholds() {
+        run(duration("load.warmup"));
+        Result result = run(duration("load.duration"));
+        result.print();
+
+        double minThroughput = decimal("load.slo.throughput-ratio") * integer("load.rate");
+        List<Executable> assertions = new ArrayList<>();
+        assertions.add(() -> assertEquals(0, result.errors(), "Failed requests"));
+        assertions.add(() -> assertTrue(result.throughput() >= minThroughput, String.format(Locale.ROOT,
+                "Throughput %.1f req/s below %.1f req/s", result.throughput(), minThroughput)));
+
+        result.latencies().forEach((operation, histogram) -> {
+            if (histogram.getTotalCount() > 0) {
+                long p99 = histogram.getValueAtPercentile(99);
+                long threshold = TimeUnit.MILLISECONDS.toMicros(integer("load.slo.p99." + operation.key));
+                assertions.add(() -> assertTrue(p99 <= threshold, String.format(Locale.ROOT,
+                        "p99 of %s is %.1f ms, threshold %.1f ms", operation.key, p99 / 1000.0, threshold / 1000.0)));
+            }
+        });
+
+        assertAll(assertions);
+    }
+
+    /**
+     * Sends requests at the configured fixed arrival rate for the given duration.
+     *
+     * <p>Requests are started on their schedule regardless of how many are still in flight.
+     * Only successful requests are recorded in the latency histograms; failed ones are counted
+     * as errors. Returns once all requests have completed.</p>
+     *
+     * @param duration how long to send requests for
+     * @return the recorded latencies and errors
+     */
+    private static Result run(Duration duration) {
+        long interval = TimeUnit.SECONDS.toNanos(1) / integer("load.rate");
+        long requests = duration.toNanos() / interval;
+        List<Operation> mix = Operation.mix();
+
+        Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+        }
+        LongAdder errors = new LongAdder();
+
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < requests; i++) {
+                long scheduled = start + i * interval;
+                long remaining;
+                while ((remaining = scheduled - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(remaining);
+                }
+
+                Operation operation = mix.get(ThreadLocalRandom.current().nextInt(mix.size()));
+                long sequence = i;
+                clients.execute(() -> {
+                    if (send(operation, sequence)) {
+                        long latency = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled);
+                        latencies.get(operation).recordValue(Math.min(latency, HIGHEST_TRACKABLE_MICROS));
+                    } else {
+                        errors.increment();
+                    }
+                });
+            }
+        }
+
+        return new Result(latencies, errors.sum(), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Sends a single request and checks its status code.
+     *
+     * @param operation the operation to perform
+     * @param sequence  the sequence number of the request, used to generate request bodies
+     * @return {@code true} if the expected status code was returned
+     */
+    private static boolean send(Operation operation, long sequence) {
+        try {
+            HttpResponse<Void> response = client.send(operation.request(sequence),
+                    HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() == operation.expectedStatus;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Creates a book whose author is one of {@link #AUTHORS} generated authors.
+     *
+     * @param sequence the sequence number of the book
+     * @return a new, unsaved {@link Book}
+     */
+    private static Book book(long sequence) {
+        return Book.builder()
+                .title("Load Book " + sequence)
+                .author("Load Author " + sequence % AUTHORS)
+                .build();
+    }
+
+    /**
+     * Returns a configuration value, preferring a system property of the same name.
+     *
+     * @param key the configuration key
+     * @return the configured value
+     * @throws IllegalStateException if the key is neither a system property nor configured
+     */
+    private static String property(String key) {
+        String value = System.getProperty(key, CONFIG.getProperty(key));
+        if (value == null) {
+            throw new IllegalStateException("Missing load test setting '" + key + "'");
+        }
+        return value.trim();
+    }
+
+    /**
+     * Returns a configuration value as an integer.
+     *
+     * @param key the configuration key
+     * @return the configured value
+     */
+    private static int integer(String key) {
+        return Integer.parseInt(property(key));
+    }
+
+    /**
+     * Returns a configuration value as a decimal number.
+     *
+     * @param key the configuration key
+     * @return the configured value
+     */
+    private static double decimal(String key) {
+        return Double.parseDouble(property(key));
+    }
+
+    /**
+     * Returns a configuration value as an ISO-8601 {@link Duration}.
+     *
+     * @param key the configuration key
+     * @return the configured value
+     */
+    private static Duration duration(String key) {
+        return Duration.parse(property(key));
+    }
+
+    /**
+     * Loads {@code load-test.properties} from the test classpath.
+     *
+     * @return the loaded properties
+     */
+    @SneakyThrows
+    private static Properties loadConfig() {
+        Properties properties = new Properties();
+        try (InputStream in = BookApiLoadTests.class.getResourceAsStream("/load-test.properties")) {
+            properties.load(in);
+        }
+        return properties;
+    }
+
+    /**
+     * The operations making up the traffic mix.
+     *
+     * <p>The {@code key} links an operation to its {@code load.mix.*} weight and its
+     * {@code load.slo.p99.*} threshold.</p>
+     */
+    @RequiredArgsConstructor
+    private enum Operation {
+        /**
+         * Retrieves all books.
+         */
+        GET_BOOKS("get-books", "/api/books", 200),
+
+        /**
+         * Creates a new book.
+         */
+        POST_BOOK("post-book", "/api/books", 201),
+
+        /**
+         * Retrieves the first page of authors.
+         */
+        GET_AUTHORS("get-authors", "/api/books/authors?page=0&size=20", 200),
+
+        /**
+         * Retrieves the top ten authors.
+         */
+        GET_TOP_AUTHORS("get-top-authors", "/api/books/authors/top?n=10", 200);
+
+        /**
+         * The name used in the {@code load.mix.*} and {@code load.slo.p99.*} settings.
+         */
+        private final String key;
+
+        /**
+         * The request path and query, relative to the base URI.
+         */
+        private final String path;
+
+        /**
+         * The status code of a successful response.
+         */
+        private final int expectedStatus;
+
+        /**
+         * Builds the HTTP request for this operation.
+         *
+         * @param sequence the sequence number of the request, used to generate request bodies
+         * @return the request to send
+         */
+        @SneakyThrows
+        HttpRequest request(long sequence) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Accept", "application/json");
+            if (this == POST_BOOK) {
+                builder.header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(book(sequence))));
+            }
+            return builder.build();
+        }
+
+        /**
+         * Expands the configured weights into a list to pick operations from uniformly.
+         *
+         * @return every operation repeated according to its weight
+         */
+        static List<Operation> mix() {
+            List<Operation> mix = new ArrayList<>();
+            for (Operation operation : values()) {
+                mix.addAll(Collections.nCopies(integer("load.mix." + operation.key), operation));
+            }
+            return mix;
+        }
+    }
+
+    /**
+     * Outcome of a load run.
+     *
+     * @param latencies the latency histogram of each operation in microseconds, successful requests only
+     * @param errors    the number of failed requests
+     * @param elapsed   the time from the first scheduled request until the last one completed
+     */
+    private record Result(Map<Operation, Histogram> latencies, long errors, Duration elapsed) {
+        /**
+         * Returns the number of successfully completed requests per second.
+         *
+         * @return the achieved throughput
+         */
+        double throughput() {
+            long requests = latencies.values().stream().mapToLong(Histogram::getTotalCount).sum();
+            return requests * (double) TimeUnit.SECONDS.toNanos(1) / elapsed.toNanos();
+        }
+
+        /**
+         * Prints a latency summary per operation to standard output.
+         */
+        void print() {
+            System.out.printf(Locale.ROOT, "%-16s %8s %10s %10s %10s%n", "operation", "count", "p50 ms", "p99 ms",
+                    "max ms");
+            latencies.forEach((operation, histogram) -> System.out.printf(Locale.ROOT,
+                    "%-16s %8d %10.1f %10.1f %10.1f%n", operation.key, histogram.getTotalCount(),
+                    histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getMaxValue() / 1000.0));
+            System.out.printf(Locale.ROOT, "throughput %.1f req/s, errors %d%n", throughput(), errors);
+        }
+    }
+}
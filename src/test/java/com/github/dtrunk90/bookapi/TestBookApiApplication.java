@@ -24,6 +24,17 @@ public class TestBookApiApplication {
 	 * @param args command-line arguments passed to the application
 	 */
 	public static void main(String[] args) {
-		SpringApplication.from(BookApiApplication::main).run(args);
+		run(args);
+	}
+
+	/**
+	 * Launches the Book API application in a test context and returns the running instance,
+	 * so that callers (e.g. load tests) can look up the web server port and close the context.
+	 *
+	 * @param args command-line arguments passed to the application
+	 * @return the running application
+	 */
+	public static SpringApplication.Running run(String... args) {
+		return SpringApplication.from(BookApiApplication::main).run(args);
 	}
 }
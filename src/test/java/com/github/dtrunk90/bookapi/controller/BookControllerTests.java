@@ -14,6 +14,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.dtrunk90.bookapi.BookApiApplication;
 import com.github.dtrunk90.bookapi.model.Book;
+import com.github.dtrunk90.bookapi.repository.BookRepository;
+import com.github.dtrunk90.bookapi.service.impl.AuthorAggregate;
+import java.util.stream.IntStream;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -35,7 +38,10 @@ import org.springframework.test.web.servlet.MockMvc;
  *
  * <ul>
  *   <li>Tests the creation of a book via HTTP POST</li>
+ *   <li>Tests that invalid books are rejected via HTTP POST</li>
  *   <li>Tests the retrieval of books via HTTP GET</li>
+ *   <li>Tests the retrieval of per-author book counts via HTTP GET</li>
+ *   <li>Tests that author counts follow updates and survive a rebuild from the database</li>
  * </ul>
  *
  * <p>Uses {@link SpringBootTest} to load the full application context and {@link AutoConfigureMockMvc}
@@ -53,6 +59,12 @@ public class BookControllerTests {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private BookRepository repository;
+
+    @Autowired
+    private AuthorAggregate authorAggregate;
+
     Book book = Book.builder()
             .title("New Book")
             .author("John Doe")
@@ -79,6 +91,31 @@ public class BookControllerTests {
                         jsonPath("$.author", is(book.getAuthor())));
     }
 
+    /**
+     * Test that a book with a blank title is rejected via POST.
+     *
+     * <p>Verifies that the response has status 400 and reports the {@code title} field
+     * in the validation problem detail.</p>
+     */
+    @Test
+    @SneakyThrows
+    public void givenBlankTitle_whenPostBook_thenStatus400AndFieldErrorReturned() {
+        Book invalid = Book.builder()
+                .title(" ")
+                .author(book.getAuthor())
+                .build();
+
+        mvc.perform(post("/api/books")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(invalid)))
+                .andDo(print())
+                .andExpectAll(
+                        status().isBadRequest(),
+                        content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON),
+                        jsonPath("$.fieldErrors", hasSize(1)),
+                        jsonPath("$.fieldErrors[0].field", is("title")));
+    }
+
     /**
      * Test that books can be retrieved after at least one book is created.
      *
@@ -105,4 +142,170 @@ public class BookControllerTests {
                         jsonPath("$[0].title", is(book.getTitle())),
                         jsonPath("$[0].author", is(book.getAuthor())));
     }
+
+    /**
+     * Test that authors are listed with their book counts after books are created.
+     *
+     * <p>Creates two books by one author and one by another, then retrieves the paged
+     * author list and verifies the counts and their descending order.</p>
+     */
+    @Test
+    @SneakyThrows
+    public void givenCreatedBooks_whenGetAuthors_thenStatus200AndAuthorPageReturned() {
+        createBooks();
+
+        mvc.perform(get("/api/books/authors")
+                        .param("page", "0")
+                        .param("size", "1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON),
+                        jsonPath("$.content", hasSize(1)),
+                        jsonPath("$.content[0].author", is(book.getAuthor())),
+                        jsonPath("$.content[0].count", is(2)),
+                        jsonPath("$.page.totalElements", is(2)));
+    }
+
+    /**
+     * Test that the top authors are returned in descending order of their book counts.
+     *
+     * <p>Creates two books by one author and one by another, then retrieves the top
+     * authors and verifies the ranking.</p>
+     */
+    @Test
+    @SneakyThrows
+    public void givenCreatedBooks_whenGetTopAuthors_thenStatus200AndRankingReturned() {
+        createBooks();
+
+        mvc.perform(get("/api/books/authors/top")
+                        .param("n", "5")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON),
+                        jsonPath("$", hasSize(2)),
+                        jsonPath("$[0].author", is(book.getAuthor())),
+                        jsonPath("$[0].count", is(2)),
+                        jsonPath("$[1].author", is("Jane Roe")),
+                        jsonPath("$[1].count", is(1)));
+    }
+
+    /**
+     * Test that requesting the top authors without any books yields 404.
+     */
+    @Test
+    @SneakyThrows
+    public void givenNoBooks_whenGetTopAuthors_thenStatus404() {
+        mvc.perform(get("/api/books/authors/top")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Test that updating the author of an existing book moves its count to the new author.
+     *
+     * <p>Creates a book, stores it again under the same ID with a different author and verifies
+     * that only the new author is ranked.</p>
+     */
+    @Test
+    @SneakyThrows
+    public void givenExistingBook_whenPostBookWithOtherAuthor_thenCountMovedToNewAuthor() {
+        mvc.perform(post("/api/books")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(book)))
+                .andExpect(status().isCreated());
+
+        Book updated = Book.builder()
+                .id(1)
+                .title(book.getTitle())
+                .author("Jane Roe")
+                .build();
+
+        mvc.perform(post("/api/books")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updated)))
+                .andExpectAll(
+                        status().isCreated(),
+                        jsonPath("$.id", is(1)),
+                        jsonPath("$.author", is(updated.getAuthor())));
+
+        mvc.perform(get("/api/books/authors/top")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$", hasSize(1)),
+                        jsonPath("$[0].author", is(updated.getAuthor())),
+                        jsonPath("$[0].count", is(1)));
+    }
+
+    /**
+     * Test that the aggregate can be rebuilt from the database across several ID ranges.
+     *
+     * <p>Stores books directly through the repository, bypassing the aggregate, so that both
+     * authors have books in every ID range. After rebuilding with three ranges the per-range
+     * counts must be merged into the totals.</p>
+     */
+    @Test
+    @SneakyThrows
+    public void givenBooksInSeveralIdRanges_whenRebuild_thenCountsMerged() {
+        repository.saveAll(IntStream.range(0, 9)
+                .mapToObj(i -> Book.builder()
+                        .title("Book " + i)
+                        .author(i % 3 == 0 ? "Jane Roe" : book.getAuthor())
+                        .build())
+                .toList());
+
+        mvc.perform(get("/api/books/authors/top")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+
+        authorAggregate.rebuild(3);
+
+        mvc.perform(get("/api/books/authors/top")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$", hasSize(2)),
+                        jsonPath("$[0].author", is(book.getAuthor())),
+                        jsonPath("$[0].count", is(6)),
+                        jsonPath("$[1].author", is("Jane Roe")),
+                        jsonPath("$[1].count", is(3)));
+    }
+
+    /**
+     * Test that requesting a non-positive number of top authors yields 400.
+     */
+    @Test
+    @SneakyThrows
+    public void givenZero_whenGetTopAuthors_thenStatus400() {
+        mvc.perform(get("/api/books/authors/top")
+                        .param("n", "0")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Creates two books by {@code John Doe} and one by {@code Jane Roe}.
+     */
+    @SneakyThrows
+    private void createBooks() {
+        Book other = Book.builder()
+                .title("Other Book")
+                .author("Jane Roe")
+                .build();
+
+        for (Book created : new Book[] { book, book, other }) {
+            mvc.perform(post("/api/books")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(created)))
+                    .andExpect(status().isCreated());
+        }
+    }
 }
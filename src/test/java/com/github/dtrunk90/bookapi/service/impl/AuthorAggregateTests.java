@@ -0,0 +1,68 @@
+/* SPDX-License-Identifier: GPL-3.0-or-later */
+
+package com.github.dtrunk90.bookapi.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.github.dtrunk90.bookapi.model.AuthorCount;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Unit tests for {@link AuthorAggregate}.
+ *
+ * <p>These tests apply deltas directly to the aggregate, without a Spring context or database,
+ * to verify how counts and the ranking react to deltas arriving out of order.</p>
+ *
+ * @author dtrunk90
+ */
+public class AuthorAggregateTests {
+    private final AuthorAggregate aggregate = new AuthorAggregate(null, 1);
+
+    /**
+     * Test that a decrement applied before its matching increment leaves no trace.
+     *
+     * <p>Two concurrent author moves may commit in either order, so an author can briefly have
+     * a negative count. Once the increment arrives the count must be back at zero and the author
+     * must no longer be part of the aggregate.</p>
+     */
+    @Test
+    public void givenUnknownAuthor_whenDecrementedThenIncremented_thenAuthorRemoved() {
+        aggregate.adjust("John Doe", -1);
+
+        assertEquals(List.of(), aggregate.getTopAuthors(10));
+        assertEquals(0, aggregate.getAuthors(PageRequest.of(0, 10)).getTotalElements());
+
+        aggregate.adjust("John Doe", 1);
+
+        Page<AuthorCount> page = aggregate.getAuthors(PageRequest.of(0, 10));
+        assertEquals(List.of(), aggregate.getTopAuthors(10));
+        assertEquals(List.of(), page.getContent());
+        assertEquals(0, page.getTotalElements());
+
+        // Only a count of exactly zero was dropped; a further book must count as the first one
+        aggregate.adjust("John Doe", 1);
+
+        assertEquals(List.of(new AuthorCount("John Doe", 1)), aggregate.getTopAuthors(10));
+    }
+
+    /**
+     * Test that moving the last book of a ranked author keeps the ranking and total consistent.
+     *
+     * <p>Removes the only book of one author and verifies that the author leaves the ranking
+     * and the total, while the other author stays ranked.</p>
+     */
+    @Test
+    public void givenRankedAuthors_whenLastBookRemoved_thenAuthorUnranked() {
+        aggregate.adjust("John Doe", 2);
+        aggregate.adjust("Jane Roe", 1);
+
+        aggregate.adjust("Jane Roe", -1);
+
+        Page<AuthorCount> page = aggregate.getAuthors(PageRequest.of(0, 10));
+        assertEquals(List.of(new AuthorCount("John Doe", 2)), page.getContent());
+        assertEquals(1, page.getTotalElements());
+    }
+}
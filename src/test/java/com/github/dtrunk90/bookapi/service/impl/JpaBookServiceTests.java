@@ -0,0 +1,97 @@
+/* SPDX-License-Identifier: GPL-3.0-or-later */
+
+package com.github.dtrunk90.bookapi.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.github.dtrunk90.bookapi.BookApiApplication;
+import com.github.dtrunk90.bookapi.model.AuthorCount;
+import com.github.dtrunk90.bookapi.model.Book;
+import com.github.dtrunk90.bookapi.service.BookService;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+
+/**
+ * Integration tests for {@link JpaBookService} and the {@link AuthorAggregate} it maintains.
+ *
+ * <p>Each test uses a clean Spring application context whose H2 database is populated from
+ * {@code author-aggregate-data.sql} before the aggregate is rebuilt at startup, so the startup
+ * rebuild actually runs its queries on the rebuild threads.</p>
+ *
+ * <ul>
+ *   <li>Tests that the startup rebuild counts the books already stored</li>
+ *   <li>Tests that concurrent inserts and author moves leave the aggregate consistent with the table</li>
+ * </ul>
+ *
+ * @author dtrunk90
+ */
+@SpringBootTest(classes = BookApiApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:author-aggregate",
+        "spring.jpa.defer-datasource-initialization=true",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.data-locations=classpath:author-aggregate-data.sql" })
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class JpaBookServiceTests {
+    private static final List<String> AUTHORS = List.of("John Doe", "Jane Roe", "Max Mustermann");
+
+    @Autowired
+    private BookService service;
+
+    @Autowired
+    private AuthorAggregate authorAggregate;
+
+    /**
+     * Test that the aggregate rebuilt at startup reflects the books stored beforehand.
+     */
+    @Test
+    public void givenStoredBooks_whenStarted_thenAggregateRebuilt() {
+        assertEquals(List.of(new AuthorCount("John Doe", 6), new AuthorCount("Jane Roe", 3)),
+                service.getTopAuthors(10));
+        assertEquals(2, service.getAuthors(PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    /**
+     * Test that concurrent writes keep the aggregate equal to a rebuild from the database.
+     *
+     * <p>Stores books from several threads, alternating between inserts and author moves of the
+     * same few existing IDs, so that moves of one book contend for its row lock and their deltas
+     * may be applied out of order. Afterwards the incrementally maintained aggregate must equal
+     * the result of a fresh rebuild.</p>
+     */
+    @Test
+    @SneakyThrows
+    public void givenConcurrentInsertsAndMoves_whenStored_thenAggregateEqualsRebuild() {
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<Book>> futures = IntStream.range(0, 200)
+                    .mapToObj(i -> executor.submit(() -> service.storeBook(Book.builder()
+                            .id(i % 2 == 0 ? 0 : 1001 + i % 9)
+                            .title("Book " + i)
+                            .author(AUTHORS.get(i % AUTHORS.size()))
+                            .build())))
+                    .toList();
+            for (Future<Book> future : futures) {
+                future.get();
+            }
+        }
+
+        List<AuthorCount> topAuthors = service.getTopAuthors(Integer.MAX_VALUE);
+        Page<AuthorCount> authors = service.getAuthors(PageRequest.of(0, 10));
+
+        authorAggregate.rebuild(3);
+
+        assertEquals(service.getTopAuthors(Integer.MAX_VALUE), topAuthors);
+        Page<AuthorCount> rebuilt = service.getAuthors(PageRequest.of(0, 10));
+        assertEquals(rebuilt.getContent(), authors.getContent());
+        assertEquals(rebuilt.getTotalElements(), authors.getTotalElements());
+    }
+}
@@ -0,0 +1,11 @@
+-- Books present before the author aggregate is rebuilt at startup, see JpaBookServiceTests.
+-- IDs start above the ones handed out by the book sequence, so later inserts do not collide.
+insert into book (id, title, author) values (1001, 'Book 1', 'Jane Roe');
+insert into book (id, title, author) values (1002, 'Book 2', 'John Doe');
+insert into book (id, title, author) values (1003, 'Book 3', 'John Doe');
+insert into book (id, title, author) values (1004, 'Book 4', 'Jane Roe');
+insert into book (id, title, author) values (1005, 'Book 5', 'John Doe');
+insert into book (id, title, author) values (1006, 'Book 6', 'John Doe');
+insert into book (id, title, author) values (1007, 'Book 7', 'Jane Roe');
+insert into book (id, title, author) values (1008, 'Book 8', 'John Doe');
+insert into book (id, title, author) values (1009, 'Book 9', 'John Doe');